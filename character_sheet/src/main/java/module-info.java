@@ -1,3 +1,5 @@
 module CharacterSheet {
-    requires Core;
-}
\ No newline at end of file
+    requires transitive Core;
+
+    exports trics.character_sheet;
+}
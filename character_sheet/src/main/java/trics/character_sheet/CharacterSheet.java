@@ -0,0 +1,99 @@
+package trics.character_sheet;
+
+import trics.core.base.CoreObject;
+import trics.core.base.Field;
+import trics.core.exceptions.InvalidIDException;
+
+import java.util.List;
+
+/**
+ * A sheet of stats, inventory, and notes for a single character.
+ * <p>
+ * A CharacterSheet created from a stat block is used as a template, and every
+ * character spawned from it is an instance that only copies the Fields it changes.
+ */
+public class CharacterSheet extends CoreObject {
+
+    /**
+     * A template CharacterSheet, such as a stat block or a blank player sheet.
+     *
+     * @param ID          The ID for this Unique, Displayable object.
+     *                    It must be a valid ID based on <code>Unique.validID()</code>.
+     * @param displayName The name of this sheet to be shown to a User.  This may be null.
+     * @param description A description of this sheet to be shown to the User.  This may be null.
+     * @param tags        A list of tags to initialize the sheet.
+     *                    This may be null.
+     * @param fields      A list of Fields in this CharacterSheet.
+     * @throws InvalidIDException This will be thrown if the given ID is invalid.
+     */
+    public CharacterSheet(String ID, String displayName, String description, List<String> tags, List<Field<?>> fields) throws InvalidIDException {
+        super(ID, displayName, description, tags, fields);
+    }
+
+    /**
+     * An instance of a template CharacterSheet.
+     * This should be created through <code>instantiate()</code>.
+     *
+     * @param ID          The ID for this Unique, Displayable object.
+     *                    It must be a valid ID based on <code>Unique.validID()</code>.
+     * @param displayName The name of this character.
+     *                    A null value will share the name of the template.
+     * @param description A description of this character.
+     *                    A null value will share the description of the template.
+     * @param template    The CharacterSheet this is an instance of.
+     * @throws InvalidIDException This will be thrown if the given ID is invalid.
+     */
+    protected CharacterSheet(String ID, String displayName, String description, CharacterSheet template) throws InvalidIDException {
+        super(ID, displayName, description, template);
+    }
+
+    /**
+     * Creates a character from this sheet sharing its name and description.
+     *
+     * @param ID The ID for the character.
+     *           It must be a valid ID based on <code>Unique.validID()</code>.
+     * @return A new CharacterSheet with this sheet as its template.
+     * @throws InvalidIDException This will be thrown if the given ID is invalid.
+     */
+    @Override
+    public CharacterSheet instantiate(String ID) throws InvalidIDException {
+        return instantiate(ID, null, null);
+    }
+
+    /**
+     * Creates a character from this sheet.
+     *
+     * @param ID          The ID for the character.
+     *                    It must be a valid ID based on <code>Unique.validID()</code>.
+     * @param displayName The name of the character.
+     *                    A null value will share the name of this sheet.
+     * @param description A description of the character.
+     *                    A null value will share the description of this sheet.
+     * @return A new CharacterSheet with this sheet as its template.
+     * @throws InvalidIDException This will be thrown if the given ID is invalid.
+     */
+    @Override
+    public CharacterSheet instantiate(String ID, String displayName, String description) throws InvalidIDException {
+        return new CharacterSheet(ID, displayName, description, this);
+    }
+
+    /**
+     * Retrieves the CharacterSheet this character was created from.
+     *
+     * @return The template or null if this sheet is not an instance.
+     */
+    @Override
+    public CharacterSheet getTemplate() {
+        return (CharacterSheet) super.getTemplate();
+    }
+
+    /**
+     * Checks if this sheet is a template rather than a character created from one.
+     *
+     * @return <code>true</code> if this sheet is not an instance, <code>false</code> otherwise.
+     */
+    public boolean isTemplate() {
+        return getTemplate() == null;
+    }
+
+}
@@ -0,0 +1,40 @@
+package trics.character_sheet;
+
+import trics.core.base.Field;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CharacterSheetTest {
+
+    @Test
+    void instanceIsACharacterSheet() throws Exception {
+        Field<Integer> hp = new Field<>("sheet.hp", "HP", null, 10, true);
+        CharacterSheet template = new CharacterSheet("sheet", "Fighter", null, List.of("player"), List.of(hp));
+
+        CharacterSheet character = template.instantiate("sheet.1");
+        CharacterSheet named = template.instantiate("sheet.2", "Aria", null);
+
+        assertTrue(template.isTemplate());
+        assertFalse(character.isTemplate());
+        assertNull(template.getTemplate());
+        assertSame(template, character.getTemplate());
+        assertSame(template, named.getTemplate());
+        assertEquals("Aria", named.displayName);
+        assertEquals(10, character.getField("sheet.hp").getData());
+    }
+
+    @Test
+    void instanceOfACharacterIsACharacterSheet() throws Exception {
+        CharacterSheet template = new CharacterSheet("nestedSheet", "Fighter", null, null, List.of());
+        CharacterSheet character = template.instantiate("nestedSheet.1");
+
+        CharacterSheet copy = character.instantiate("nestedSheet.2");
+
+        assertFalse(copy.isTemplate());
+        assertSame(character, copy.getTemplate());
+    }
+
+}
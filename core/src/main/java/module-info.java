@@ -2,6 +2,7 @@ module Core {
     requires org.jetbrains.annotations;
 
     exports trics.core.base;
+    exports trics.core.exceptions;
     exports trics.core.lang;
     exports trics.core.preferences;
 }
\ No newline at end of file
@@ -0,0 +1,233 @@
+package trics.core.base;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * A list of booleans backed by a <code>BitSet</code>.
+ * This is the value of a BOOLEAN_ARRAY Field, such as expended spell slots.
+ */
+public final class BooleanArray extends PrimitiveArray {
+
+    private BitSet data;
+
+    /**
+     * Creates an array of <code>false</code> values.
+     *
+     * @param size The number of elements.
+     */
+    public BooleanArray(int size) {
+        super(size);
+        this.data = new BitSet(size);
+    }
+
+    /**
+     * Creates an array containing the given values.
+     *
+     * @param values The initial elements.
+     */
+    public BooleanArray(@NotNull boolean[] values) {
+        this(values.length);
+
+        for (int i = 0; i < values.length; i++)
+            data.set(i, values[i]);
+    }
+
+    /**
+     * Creates a copy sharing the storage of another array.
+     *
+     * @param data The shared storage.
+     * @param size The number of elements.
+     */
+    private BooleanArray(BitSet data, int size) {
+        super(size);
+        this.data = data;
+        this.shared = true;
+    }
+
+    /**
+     * Gets a single element.
+     *
+     * @param index The index of the element.
+     * @return The element at index.
+     */
+    public boolean get(int index) {
+        checkRange(index, 1);
+        return data.get(index);
+    }
+
+    /**
+     * Sets a single element, recording it as changed if the value differs.
+     *
+     * @param index The index of the element.
+     * @param value The new value.
+     * @return The old value.
+     */
+    public boolean set(int index, boolean value) {
+        checkModifiable();
+        checkRange(index, 1);
+
+        boolean oldValue = data.get(index);
+        if (oldValue != value) {
+            unshare();
+            data.set(index, value);
+            changes.set(index);
+        }
+
+        return oldValue;
+    }
+
+    /**
+     * Copies a range of elements out of this array.
+     *
+     * @param from   The first index to read.
+     * @param dst    The array to copy into.
+     * @param offset The first index of dst to write.
+     * @param length The number of elements to copy.
+     */
+    public void read(int from, @NotNull boolean[] dst, int offset, int length) {
+        checkRange(from, length);
+
+        for (int i = 0; i < length; i++)
+            dst[offset + i] = data.get(from + i);
+    }
+
+    /**
+     * Copies a range of elements into this array, recording every element whose value differs.
+     *
+     * @param from   The first index to write.
+     * @param src    The array to copy from.
+     * @param offset The first index of src to read.
+     * @param length The number of elements to copy.
+     */
+    public void write(int from, @NotNull boolean[] src, int offset, int length) {
+        checkModifiable();
+        checkRange(from, length);
+
+        for (int i = 0; i < length; i++) {
+            boolean value = src[offset + i];
+            if (data.get(from + i) != value) {
+                unshare();
+                data.set(from + i, value);
+                changes.set(from + i);
+            }
+        }
+    }
+
+    /**
+     * Copies all elements out of this array.
+     *
+     * @return A new array containing every element.
+     */
+    public boolean[] toArray() {
+        boolean[] values = new boolean[size];
+        read(0, values, 0, size);
+
+        return values;
+    }
+
+    @Override
+    public BooleanArray copy() {
+        shared = true;
+        return new BooleanArray(data, size);
+    }
+
+    @Override
+    protected boolean sameElement(int index, PrimitiveArray other) {
+        return data.get(index) == ((BooleanArray) other).data.get(index);
+    }
+
+    @Override
+    protected void resizeStorage(int newSize) {
+        if (newSize < size) {
+            unshare();
+            data.clear(newSize, size);
+        }
+    }
+
+    /**
+     * Copies the storage if it is shared so modifications are not seen by copies.
+     */
+    private void unshare() {
+        if (shared) {
+            data = (BitSet) data.clone();
+            shared = false;
+        }
+    }
+
+    /**
+     * Encodes the size followed by the elements packed 8 per byte.
+     *
+     * @return The encoded array.
+     */
+    @Override
+    public byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(5 + (size + 7) / 8);
+        writeVarInt(out, size);
+
+        // BitSet drops trailing false values, so pad back out to the full size
+        out.writeBytes(Arrays.copyOf(data.toByteArray(), (size + 7) / 8));
+
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes an array encoded by <code>toBytes()</code>.
+     *
+     * @param bytes The encoded array.
+     * @return A new array with no recorded changes.
+     */
+    public static BooleanArray fromBytes(@NotNull byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        int size = readVarInt(in);
+        checkEncodedSize(in, size, 1);
+
+        BooleanArray array = new BooleanArray(size);
+
+        // Only the packed elements are read, so any bytes after them are left to be rejected
+        ByteBuffer elements = in.slice();
+        elements.limit((size + 7) / 8);
+        in.position(in.position() + elements.limit());
+        checkFullyDecoded(in);
+
+        BitSet packed = BitSet.valueOf(elements);
+        if (packed.length() > size)
+            throw new IllegalArgumentException("Padding bits after the encoded array are set");
+
+        array.data.or(packed);
+
+        return array;
+    }
+
+    /**
+     * Compares the elements of this array with another BooleanArray.
+     *
+     * @param obj The object to compare for equality.
+     * @return <code>true</code> if the object is a BooleanArray with equal elements,
+     * <code>false</code> otherwise.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof BooleanArray) {
+            BooleanArray other = (BooleanArray) obj;
+            return size == other.size && data.equals(other.data);
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * size + data.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+}
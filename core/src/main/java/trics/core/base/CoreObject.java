@@ -5,14 +5,30 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * The basis of all interactive components.
  * Contains fields that can displayed edited, used in scripts, etc.
+ * <p>
+ * A CoreObject may be used as a template for many instances.  An instance shares
+ * the fields, tags, and text of its template, so creating an instance does not copy
+ * anything.  The Fields of an instance share the values of the template until a value
+ * is written, so modifying an instance never modifies its template.
  */
 public class CoreObject extends Taggable {
 
-    private final HashMap<String, Field<?>> fields = new HashMap<>();
+    /**
+     * The Fields owned by this CoreObject.
+     * For an instance this only holds the Fields that have been retrieved from the
+     * instance itself and is null until the first one is.
+     */
+    private HashMap<String, Field<?>> fields;
+
+    /**
+     * The CoreObject this is an instance of, or null if this is not an instance.
+     */
+    private final CoreObject template;
 
     /**
      * A CoreObject with no fields and no tags.
@@ -20,11 +36,15 @@ public class CoreObject extends Taggable {
      * @param ID          The ID for this Unique, Displayable object.
      *                    It must be a valid ID based on <code>Unique.validID()</code>.
      * @param displayName The name of this component to be shown to a User.  This may be null.
-     * @param description A description of this component to be shown to the User.  This may be null.
+     * @param description A description of this component to be shown to the User.
+     *                    A null value will initialize to <code>Text.EMPTY</code>.
      * @throws InvalidIDException This will be thrown if the given ID is invalid.
      */
     public CoreObject(String ID, String displayName, String description) throws InvalidIDException {
         super(ID, displayName, description);
+
+        this.fields = new HashMap<>();
+        this.template = null;
     }
 
     /**
@@ -33,7 +53,8 @@ public class CoreObject extends Taggable {
      * @param ID          The ID for this Unique, Displayable object.
      *                    It must be a valid ID based on <code>Unique.validID()</code>.
      * @param displayName The name of this component to be shown to a User.  This may be null.
-     * @param description A description of this component to be shown to the User.  This may be null.
+     * @param description A description of this component to be shown to the User.
+     *                    A null value will initialize to <code>Text.EMPTY</code>.
      * @param tags        A list of tags to initialize the component.
      *                    This is typically used for loading saved components.
      *                    This may be null.
@@ -41,6 +62,9 @@ public class CoreObject extends Taggable {
      */
     public CoreObject(String ID, String displayName, String description, List<String> tags) throws InvalidIDException {
         super(ID, displayName, description, tags);
+
+        this.fields = new HashMap<>();
+        this.template = null;
     }
 
     /**
@@ -50,7 +74,8 @@ public class CoreObject extends Taggable {
      * @param ID          The ID for this Unique, Displayable object.
      *                    It must be a valid ID based on <code>Unique.validID()</code>.
      * @param displayName The name of this component to be shown to a User.  This may be null.
-     * @param description A description of this component to be shown to the User.  This may be null.
+     * @param description A description of this component to be shown to the User.
+     *                    A null value will initialize to <code>Text.EMPTY</code>.
      * @param tags        A list of tags to initialize the component.
      *                    This is typically used for loading saved components.
      *                    This may be null.
@@ -60,27 +85,177 @@ public class CoreObject extends Taggable {
     public CoreObject(String ID, String displayName, String description, List<String> tags, @NotNull List<Field<?>> fields) throws InvalidIDException {
         super(ID, displayName, description, tags);
 
+        this.fields = new HashMap<>();
+        this.template = null;
+
         // Add all the given fields to this CoreObject
         fields.forEach(f -> this.fields.put(f.ID, f));
     }
 
+    /**
+     * An instance of a template CoreObject.
+     * This should be created through <code>instantiate()</code>.
+     *
+     * @param ID          The ID for this Unique, Displayable object.
+     *                    It must be a valid ID based on <code>Unique.validID()</code>.
+     * @param displayName The name of this component to be shown to a User.
+     *                    A null value will share the name of the template.
+     * @param description A description of this component to be shown to the User.
+     *                    A null value will share the description of the template.
+     * @param template    The CoreObject this is an instance of.
+     * @throws InvalidIDException This will be thrown if the given ID is invalid.
+     */
+    protected CoreObject(String ID, String displayName, String description, @NotNull CoreObject template) throws InvalidIDException {
+        super(ID, displayName, description, template);
+
+        // Fields are only allocated once this instance overrides one
+        this.fields = null;
+        this.template = template;
+    }
+
+    /**
+     * Creates an instance of this CoreObject sharing its name and description.
+     *
+     * @param ID The ID for the instance.
+     *           It must be a valid ID based on <code>Unique.validID()</code>.
+     * @return A new instance with this CoreObject as its template.
+     * @throws InvalidIDException This will be thrown if the given ID is invalid.
+     */
+    public CoreObject instantiate(String ID) throws InvalidIDException {
+        return instantiate(ID, null, null);
+    }
+
+    /**
+     * Creates an instance of this CoreObject.
+     *
+     * @param ID          The ID for the instance.
+     *                    It must be a valid ID based on <code>Unique.validID()</code>.
+     * @param displayName The name of the instance.
+     *                    A null value will share the name of this CoreObject.
+     * @param description A description of the instance.
+     *                    A null value will share the description of this CoreObject.
+     * @return A new instance with this CoreObject as its template.
+     * @throws InvalidIDException This will be thrown if the given ID is invalid.
+     */
+    public CoreObject instantiate(String ID, String displayName, String description) throws InvalidIDException {
+        return new CoreObject(ID, displayName, description, this);
+    }
+
+    /**
+     * Retrieves the CoreObject this is an instance of.
+     *
+     * @return The template or null if this CoreObject is not an instance.
+     */
+    public CoreObject getTemplate() {
+        return template;
+    }
+
     /**
      * Retrieves a list of all Fields in this CoreObject.
+     * For an instance this includes a Field for every Field of the original template.
      *
      * @return An unmodifiable list of Fields.
      */
     public List<Field<?>> getAllFields() {
-        return List.copyOf(fields.values());
+        if (template == null)
+            return List.copyOf(fields.values());
+
+        // Only the original template knows every Field, and it never creates Fields itself
+        CoreObject root = template;
+        while (root.template != null)
+            root = root.template;
+
+        return root.fields.keySet().stream()
+                .map(this::getField)
+                .collect(Collectors.toUnmodifiableList());
     }
 
     /**
      * Retrieves a specific Field by its ID.
+     * For an instance, a mutable Field is created on first access and shares the value
+     * of the template's Field until a value is written.  Writing a value never modifies
+     * the template.  Immutable Fields are shared with the template.
+     * Templates further up the chain never create Fields when an instance is read.
      *
      * @param id ID of the Field.
      * @return The Field with the given ID or null if this CoreObject
      * does not contain a Field with the given ID.
      */
     public Field<?> getField(String id) {
-        return this.fields.get(id);
+        Field<?> field = (fields != null) ? fields.get(id) : null;
+
+        if (field != null || template == null)
+            return field;
+
+        Field<?> inherited = template.lookupField(id);
+        if (inherited == null || !inherited.mutable)
+            return inherited;
+
+        // Only allocate the map once a Field of the template is retrieved
+        if (fields == null)
+            fields = new HashMap<>(4);
+
+        field = inheritField(inherited, template);
+        fields.put(id, field);
+
+        return field;
+    }
+
+    /**
+     * Finds the Field an instance of this CoreObject shares its value with, without
+     * creating a Field in this CoreObject.
+     *
+     * @param id ID of the Field.
+     * @return The closest existing Field with the given ID up the template chain,
+     * or null if there is no such Field.
+     */
+    Field<?> lookupField(String id) {
+        Field<?> field = (fields != null) ? fields.get(id) : null;
+
+        if (field == null && template != null)
+            return template.lookupField(id);
+
+        return field;
     }
+
+    /**
+     * Checks if an instance has set its own value for a Field.
+     *
+     * @param id ID of the Field.
+     * @return <code>true</code> if this is an instance and the Field has its own value,
+     * <code>false</code> otherwise.
+     */
+    public boolean isOverridden(String id) {
+        Field<?> field = (template != null && fields != null) ? fields.get(id) : null;
+
+        return field != null && field.isOverridden();
+    }
+
+    /**
+     * Discards the value an instance has set for a Field so it shares the template's value again.
+     *
+     * @param id ID of the Field.
+     * @return <code>true</code> if the Field had its own value and has been reverted,
+     * <code>false</code> otherwise.
+     */
+    public boolean revertField(String id) {
+        if (!isOverridden(id))
+            return false;
+
+        fields.get(id).revert();
+
+        return true;
+    }
+
+    /**
+     * Creates the Field of an instance for a Field of its template while keeping its value type.
+     *
+     * @param field  The Field of the template.
+     * @param source The template the value is read from.
+     * @return A Field sharing the value of the template's Field.
+     */
+    private static <T> Field<T> inheritField(Field<T> field, CoreObject source) {
+        return new Field<>(field, source);
+    }
+
 }
@@ -0,0 +1,225 @@
+package trics.core.base;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A list of decimals backed by a <code>double[]</code>.
+ * This is the value of a DECIMAL_ARRAY Field, such as item weights.
+ */
+public final class DecimalArray extends PrimitiveArray {
+
+    private double[] data;
+
+    /**
+     * Creates an array of zeros.
+     *
+     * @param size The number of elements.
+     */
+    public DecimalArray(int size) {
+        super(size);
+        this.data = new double[size];
+    }
+
+    /**
+     * Creates an array containing a copy of the given values.
+     *
+     * @param values The initial elements.
+     */
+    public DecimalArray(@NotNull double[] values) {
+        super(values.length);
+        this.data = values.clone();
+    }
+
+    /**
+     * Creates a copy sharing the storage of another array.
+     *
+     * @param data The shared storage.
+     * @param size The number of elements.
+     */
+    private DecimalArray(double[] data, int size) {
+        super(size);
+        this.data = data;
+        this.shared = true;
+    }
+
+    /**
+     * Gets a single element.
+     *
+     * @param index The index of the element.
+     * @return The element at index.
+     */
+    public double get(int index) {
+        checkRange(index, 1);
+        return data[index];
+    }
+
+    /**
+     * Sets a single element, recording it as changed if the value differs.
+     *
+     * @param index The index of the element.
+     * @param value The new value.
+     * @return The old value.
+     */
+    public double set(int index, double value) {
+        checkModifiable();
+        checkRange(index, 1);
+
+        double oldValue = data[index];
+        if (Double.compare(oldValue, value) != 0) {
+            unshare();
+            data[index] = value;
+            changes.set(index);
+        }
+
+        return oldValue;
+    }
+
+    /**
+     * Copies a range of elements out of this array.
+     *
+     * @param from   The first index to read.
+     * @param dst    The array to copy into.
+     * @param offset The first index of dst to write.
+     * @param length The number of elements to copy.
+     */
+    public void read(int from, @NotNull double[] dst, int offset, int length) {
+        checkRange(from, length);
+        System.arraycopy(data, from, dst, offset, length);
+    }
+
+    /**
+     * Copies a range of elements into this array, recording every element whose value differs.
+     *
+     * @param from   The first index to write.
+     * @param src    The array to copy from.
+     * @param offset The first index of src to read.
+     * @param length The number of elements to copy.
+     */
+    public void write(int from, @NotNull double[] src, int offset, int length) {
+        checkModifiable();
+        checkRange(from, length);
+
+        for (int i = 0; i < length; i++) {
+            double value = src[offset + i];
+            if (Double.compare(data[from + i], value) != 0) {
+                unshare();
+                data[from + i] = value;
+                changes.set(from + i);
+            }
+        }
+    }
+
+    /**
+     * Copies all elements out of this array.
+     *
+     * @return A new array containing every element.
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    @Override
+    public DecimalArray copy() {
+        shared = true;
+        return new DecimalArray(data, size);
+    }
+
+    @Override
+    protected boolean sameElement(int index, PrimitiveArray other) {
+        return Double.compare(data[index], ((DecimalArray) other).data[index]) == 0;
+    }
+
+    @Override
+    protected void resizeStorage(int newSize) {
+        if (newSize > data.length) {
+            data = Arrays.copyOf(data, Math.max(newSize, data.length + (data.length >> 1)));
+            shared = false;
+        } else if (newSize < size) {
+            unshare();
+            Arrays.fill(data, newSize, size, 0);
+        }
+    }
+
+    /**
+     * Copies the storage if it is shared so modifications are not seen by copies.
+     */
+    private void unshare() {
+        if (shared) {
+            data = data.clone();
+            shared = false;
+        }
+    }
+
+    /**
+     * Encodes the size followed by the 8 byte value of each element.
+     *
+     * @return The encoded array.
+     */
+    @Override
+    public byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(5);
+        writeVarInt(out, size);
+
+        ByteBuffer buffer = ByteBuffer.allocate(out.size() + size * Double.BYTES);
+        buffer.put(out.toByteArray());
+        buffer.asDoubleBuffer().put(data, 0, size);
+
+        return buffer.array();
+    }
+
+    /**
+     * Decodes an array encoded by <code>toBytes()</code>.
+     *
+     * @param bytes The encoded array.
+     * @return A new array with no recorded changes.
+     */
+    public static DecimalArray fromBytes(@NotNull byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        int size = readVarInt(in);
+        checkEncodedSize(in, size, 64);
+
+        DecimalArray array = new DecimalArray(size);
+
+        in.asDoubleBuffer().get(array.data, 0, array.size);
+        in.position(in.position() + array.size * Double.BYTES);
+        checkFullyDecoded(in);
+
+        return array;
+    }
+
+    /**
+     * Compares the elements of this array with another DecimalArray.
+     *
+     * @param obj The object to compare for equality.
+     * @return <code>true</code> if the object is a DecimalArray with equal elements,
+     * <code>false</code> otherwise.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof DecimalArray) {
+            DecimalArray other = (DecimalArray) obj;
+            return Arrays.equals(data, 0, size, other.data, 0, other.size);
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++)
+            hash = 31 * hash + Double.hashCode(data[i]);
+
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+}
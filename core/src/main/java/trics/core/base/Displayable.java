@@ -1,6 +1,7 @@
 package trics.core.base;
 
 import trics.core.exceptions.InvalidIDException;
+import org.jetbrains.annotations.NotNull;
 
 /**
  * Any component that will be displayed to the User MUST be a Displayable.
@@ -10,13 +11,15 @@ public abstract class Displayable extends Unique {
 
     /**
      * The Title or Name of a component that a User will see.
+     * Equal names are shared through <code>TextStore.shared()</code>.
      */
     public final String displayName;
 
     /**
      * A description of a component for the User.
+     * Long descriptions are kept off-heap and only decoded by <code>toString()</code>.
      */
-    public final String description;
+    public final Text description;
 
     /**
      * Adds additional information such as a name and description to components a User may see.
@@ -24,15 +27,49 @@ public abstract class Displayable extends Unique {
      * @param ID          The ID for this Unique, Displayable object.
      *                    It must be a valid ID based on <code>Unique.validID()</code>.
      * @param displayName The name of this component to be shown to a User.  This may be null.
-     * @param description A description of this component to be shown to the User.  This may be null.
+     * @param description A description of this component to be shown to the User.
+     *                    A null value will initialize to <code>Text.EMPTY</code>.
      * @throws InvalidIDException This will be thrown if the given ID is invalid.
      */
     public Displayable(String ID, String displayName, String description) throws InvalidIDException {
         super(ID);
 
-        // If the displayName or description are null, an empty String will be substituted.
-        this.displayName = (displayName != null) ? displayName : "";
-        this.description = (description != null) ? description : "";
+        // If the displayName or description are null, empty text will be substituted.
+        this.displayName = TextStore.shared().intern(displayName);
+        this.description = TextStore.shared().store(description);
+    }
+
+    /**
+     * Creates an instance of a template component that shares the template's text
+     * unless it is given its own.
+     *
+     * @param ID          The ID for this Unique, Displayable object.
+     *                    It must be a valid ID based on <code>Unique.validID()</code>.
+     * @param displayName The name of this component to be shown to a User.
+     *                    A null value will share the name of the template.
+     * @param description A description of this component to be shown to the User.
+     *                    A null value will share the description of the template.
+     * @param template    The component this is an instance of.
+     * @throws InvalidIDException This will be thrown if the given ID is invalid.
+     */
+    protected Displayable(String ID, String displayName, String description, @NotNull Displayable template) throws InvalidIDException {
+        super(ID);
+
+        this.displayName = (displayName != null) ? TextStore.shared().intern(displayName) : template.displayName;
+        this.description = (description != null) ? TextStore.shared().store(description) : template.description;
+    }
+
+    /**
+     * Creates a copy of a component that shares its ID and text.
+     * The copy is <code>equals()</code> to its template, see <code>Unique(Unique)</code>.
+     *
+     * @param template The component to copy.
+     */
+    Displayable(@NotNull Displayable template) {
+        super(template);
+
+        this.displayName = template.displayName;
+        this.description = template.description;
     }
 
 }
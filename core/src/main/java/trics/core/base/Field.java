@@ -16,10 +16,22 @@ public class Field<T> extends Displayable {
     public final Type dataType;
 
     /**
-     * The value of the data in this field
+     * The value of the data in this field.
+     * This is null for a Field of an instance still sharing the value of its template.
      */
     private T value;
 
+    /**
+     * The template CoreObject whose Field with the same ID this Field shares its value with,
+     * or null if this Field does not belong to an instance.
+     */
+    private final CoreObject source;
+
+    /**
+     * True if this Field belongs to an instance and has been given a value of its own.
+     */
+    private boolean overridden = false;
+
     /**
      * True if the data can be modified within the application
      */
@@ -33,21 +45,54 @@ public class Field<T> extends Displayable {
      * @param displayName The name of this component to be shown to a User.
      *                    A null value will initialize to an empty String.
      * @param description A description of this component to be shown to the User.
-     *                    A null value will initialize to an empty String
+     *                    A null value will initialize to <code>Text.EMPTY</code>.
      * @param value       The value of the Field converted to an Object.
-     *                    Valid object to pass in are: Integer, Double, Boolean, and String.
+     *                    Valid object to pass in are: Integer, Double, Boolean, String,
+     *                    IntegerArray, DecimalArray, and BooleanArray.
      *                    This cannot be null.
      * @param mutable     The mutability rule for the Field within the application.
+     *                    An array value is copied, and the copy is frozen if the Field is immutable.
      * @throws InvalidIDException This will be thrown if the given ID is invalid.
      */
+    @SuppressWarnings("unchecked")
     public Field(String ID, String displayName, String description, @NotNull T value, boolean mutable)
             throws InvalidIDException, InvalidTypeException {
 
         super(ID, displayName, description);
 
         this.dataType = Type.getType(value);
-        this.value = value;
         this.mutable = mutable;
+        this.source = null;
+
+        if (dataType.isArray()) {
+            // The copy shares storage with value until either is modified
+            PrimitiveArray copy = ((PrimitiveArray) value).copy();
+
+            // Elements of an immutable array must not be modifiable either
+            if (!mutable)
+                copy.freeze();
+
+            this.value = (T) copy;
+        } else {
+            this.value = value;
+        }
+    }
+
+    /**
+     * Creates the Field of a CoreObject instance for a mutable Field of its template.
+     * It has the same ID, text, data type, and mutability rule, and shares the value
+     * of the template until a value is written.
+     *
+     * @param template The Field of the template.
+     * @param source   The template CoreObject the value is read from.
+     */
+    Field(@NotNull Field<T> template, @NotNull CoreObject source) {
+        super(template);
+
+        this.dataType = template.dataType;
+        this.mutable = template.mutable;
+        this.source = source;
+        this.value = null;
     }
 
     /**
@@ -61,25 +106,114 @@ public class Field<T> extends Displayable {
 
     /**
      * Gets the Field value.
+     * An array value is modified in place, so a Field sharing the array of its
+     * template returns a copy that shares storage with the template's array.
+     * Writing to that copy gives this Field its own value, so only the array most
+     * recently returned should be modified.
      *
      * @return The Field value.
      */
+    @SuppressWarnings("unchecked")
     public T getData() {
-        return value;
+        if (source == null || overridden || !dataType.isArray())
+            return peekData();
+
+        PrimitiveArray copy = ((PrimitiveArray) templateField().peekData()).copy();
+        copy.owner = this;
+
+        return (T) copy;
+    }
+
+    /**
+     * Gets the Field value without copying an array shared with the template.
+     * The returned value must not be modified.
+     *
+     * @return The Field value, which may belong to the template.
+     */
+    T peekData() {
+        return (source == null || overridden) ? value : templateField().peekData();
+    }
+
+    /**
+     * Gives this Field its own array once an array returned by <code>getData()</code> is written to.
+     *
+     * @param array The array being written to.
+     */
+    @SuppressWarnings("unchecked")
+    void arrayWritten(@NotNull PrimitiveArray array) {
+        if (!overridden) {
+            overridden = true;
+            value = (T) array;
+        }
+    }
+
+    /**
+     * Checks if this Field has a value of its own instead of sharing the value of its template.
+     *
+     * @return <code>true</code> if this Field belongs to an instance and has its own value,
+     * <code>false</code> otherwise.
+     */
+    boolean isOverridden() {
+        return source != null && overridden;
+    }
+
+    /**
+     * Discards the value of this Field so it shares the value of its template again.
+     */
+    void revert() {
+        if (source == null)
+            return;
+
+        // Writes to a discarded array must not override this Field again
+        if (value instanceof PrimitiveArray)
+            ((PrimitiveArray) value).owner = null;
+
+        overridden = false;
+        value = null;
+    }
+
+    /**
+     * The Field of the template this Field currently shares its value with.
+     * This is looked up each time so an override made by the template is seen.
+     *
+     * @return The template's Field with the same ID.
+     */
+    @SuppressWarnings("unchecked")
+    private Field<T> templateField() {
+        return (Field<T>) source.lookupField(ID);
     }
 
     /**
      * Sets the Field value.
+     * An array value is copied so the two Fields do not share elements, and every
+     * element that differs from the old value is recorded as changed.
      *
      * @param newValue The new value to be used in this Field.
      *                 This cannot be null.
      * @return The old value of this Field.
      * This will return <code>null</code> if the Field is immutable.
      */
+    @SuppressWarnings("unchecked")
     public T setData(@NotNull Field<T> newValue) {
         if (mutable && dataType == newValue.dataType) {
-            T oldValue = value;
-            value = newValue.value;
+            T oldValue = peekData();
+            if (dataType.isArray()) {
+                PrimitiveArray copy = ((PrimitiveArray) newValue.peekData()).copy();
+                copy.markChanges((PrimitiveArray) oldValue);
+
+                // The template's array must not be handed out, and a replaced array is no longer written through
+                if (source != null && !overridden)
+                    oldValue = (T) ((PrimitiveArray) oldValue).copy();
+                else
+                    ((PrimitiveArray) oldValue).owner = null;
+
+                value = (T) copy;
+            } else {
+                value = newValue.peekData();
+            }
+
+            if (source != null)
+                overridden = true;
 
             return oldValue;
         }
@@ -102,7 +236,7 @@ public class Field<T> extends Displayable {
             Field<?> other = (Field<?>) obj;
 
             if (other.dataType == dataType) {
-                return value.equals(other.value);
+                return peekData().equals(other.peekData());
             }
         }
 
@@ -0,0 +1,228 @@
+package trics.core.base;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A list of integers backed by an <code>int[]</code>.
+ * This is the value of an INTEGER_ARRAY Field, such as inventory counts or spell slots.
+ */
+public final class IntegerArray extends PrimitiveArray {
+
+    private int[] data;
+
+    /**
+     * Creates an array of zeros.
+     *
+     * @param size The number of elements.
+     */
+    public IntegerArray(int size) {
+        super(size);
+        this.data = new int[size];
+    }
+
+    /**
+     * Creates an array containing a copy of the given values.
+     *
+     * @param values The initial elements.
+     */
+    public IntegerArray(@NotNull int[] values) {
+        super(values.length);
+        this.data = values.clone();
+    }
+
+    /**
+     * Creates a copy sharing the storage of another array.
+     *
+     * @param data The shared storage.
+     * @param size The number of elements.
+     */
+    private IntegerArray(int[] data, int size) {
+        super(size);
+        this.data = data;
+        this.shared = true;
+    }
+
+    /**
+     * Gets a single element.
+     *
+     * @param index The index of the element.
+     * @return The element at index.
+     */
+    public int get(int index) {
+        checkRange(index, 1);
+        return data[index];
+    }
+
+    /**
+     * Sets a single element, recording it as changed if the value differs.
+     *
+     * @param index The index of the element.
+     * @param value The new value.
+     * @return The old value.
+     */
+    public int set(int index, int value) {
+        checkModifiable();
+        checkRange(index, 1);
+
+        int oldValue = data[index];
+        if (oldValue != value) {
+            unshare();
+            data[index] = value;
+            changes.set(index);
+        }
+
+        return oldValue;
+    }
+
+    /**
+     * Copies a range of elements out of this array.
+     *
+     * @param from   The first index to read.
+     * @param dst    The array to copy into.
+     * @param offset The first index of dst to write.
+     * @param length The number of elements to copy.
+     */
+    public void read(int from, @NotNull int[] dst, int offset, int length) {
+        checkRange(from, length);
+        System.arraycopy(data, from, dst, offset, length);
+    }
+
+    /**
+     * Copies a range of elements into this array, recording every element whose value differs.
+     *
+     * @param from   The first index to write.
+     * @param src    The array to copy from.
+     * @param offset The first index of src to read.
+     * @param length The number of elements to copy.
+     */
+    public void write(int from, @NotNull int[] src, int offset, int length) {
+        checkModifiable();
+        checkRange(from, length);
+
+        for (int i = 0; i < length; i++) {
+            int value = src[offset + i];
+            if (data[from + i] != value) {
+                unshare();
+                data[from + i] = value;
+                changes.set(from + i);
+            }
+        }
+    }
+
+    /**
+     * Copies all elements out of this array.
+     *
+     * @return A new array containing every element.
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    @Override
+    public IntegerArray copy() {
+        shared = true;
+        return new IntegerArray(data, size);
+    }
+
+    @Override
+    protected boolean sameElement(int index, PrimitiveArray other) {
+        return data[index] == ((IntegerArray) other).data[index];
+    }
+
+    @Override
+    protected void resizeStorage(int newSize) {
+        if (newSize > data.length) {
+            data = Arrays.copyOf(data, Math.max(newSize, data.length + (data.length >> 1)));
+            shared = false;
+        } else if (newSize < size) {
+            unshare();
+            Arrays.fill(data, newSize, size, 0);
+        }
+    }
+
+    /**
+     * Copies the storage if it is shared so modifications are not seen by copies.
+     */
+    private void unshare() {
+        if (shared) {
+            data = data.clone();
+            shared = false;
+        }
+    }
+
+    /**
+     * Encodes the size followed by each element as a zigzag variable length integer,
+     * so small counts take a single byte.
+     *
+     * @return The encoded array.
+     */
+    @Override
+    public byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size + 5);
+
+        writeVarInt(out, size);
+        for (int i = 0; i < size; i++)
+            writeVarInt(out, (data[i] << 1) ^ (data[i] >> 31));
+
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes an array encoded by <code>toBytes()</code>.
+     *
+     * @param bytes The encoded array.
+     * @return A new array with no recorded changes.
+     */
+    public static IntegerArray fromBytes(@NotNull byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        int size = readVarInt(in);
+        checkEncodedSize(in, size, 8);
+
+        IntegerArray array = new IntegerArray(size);
+
+        for (int i = 0; i < array.size; i++) {
+            int zigzag = readVarInt(in);
+            array.data[i] = (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+
+        checkFullyDecoded(in);
+
+        return array;
+    }
+
+    /**
+     * Compares the elements of this array with another IntegerArray.
+     *
+     * @param obj The object to compare for equality.
+     * @return <code>true</code> if the object is an IntegerArray with equal elements,
+     * <code>false</code> otherwise.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof IntegerArray) {
+            IntegerArray other = (IntegerArray) obj;
+            return Arrays.equals(data, 0, size, other.data, 0, other.size);
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++)
+            hash = 31 * hash + data[i];
+
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+}
@@ -0,0 +1,280 @@
+package trics.core.base;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+
+/**
+ * A list-shaped Field value backed by a single primitive array.
+ * <p>
+ * Every element that is changed is recorded so only the changed elements
+ * need to be displayed, saved, or sent again.
+ * <p>
+ * A copy shares its storage with the original until either of them is modified,
+ * so copying is cheap regardless of size.
+ * <br>
+ * <strong>A frozen array cannot be modified.</strong>
+ */
+public abstract class PrimitiveArray {
+
+    /**
+     * The indices of all elements changed since the last <code>clearChanges()</code>.
+     */
+    protected final BitSet changes = new BitSet();
+
+    /**
+     * The number of elements in this array.
+     */
+    protected int size;
+
+    /**
+     * True if the storage may be shared with a copy and must be copied before it is modified.
+     */
+    protected boolean shared = false;
+
+    /**
+     * True if modifications are rejected.
+     */
+    private boolean frozen = false;
+
+    /**
+     * The Field of a CoreObject instance this array was returned by while it was still
+     * shared with the template, or null.  Writing to the array overrides that Field.
+     */
+    Field<?> owner = null;
+
+    /**
+     * Creates an array with no recorded changes.
+     *
+     * @param size The number of elements.
+     */
+    protected PrimitiveArray(int size) {
+        if (size < 0)
+            throw new IllegalArgumentException("size < 0");
+
+        this.size = size;
+    }
+
+    /**
+     * The number of elements in this array.
+     *
+     * @return The size of the array.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Changes the number of elements in this array.
+     * New elements are initialized to their default value and recorded as changed.
+     *
+     * @param newSize The new number of elements.
+     */
+    public void resize(int newSize) {
+        checkModifiable();
+        if (newSize < 0)
+            throw new IllegalArgumentException("newSize < 0");
+
+        resizeStorage(newSize);
+
+        // Elements past the new size are no longer changes
+        if (newSize < size)
+            changes.clear(newSize, size);
+        else
+            changes.set(size, newSize);
+
+        size = newSize;
+    }
+
+    /**
+     * Checks if an element has been changed.
+     *
+     * @param index The index of the element.
+     * @return <code>true</code> if the element changed since the last
+     * <code>clearChanges()</code>, <code>false</code> otherwise.
+     */
+    public boolean isChanged(int index) {
+        return changes.get(index);
+    }
+
+    /**
+     * Checks if any element has been changed.
+     *
+     * @return <code>true</code> if any element changed since the last
+     * <code>clearChanges()</code>, <code>false</code> otherwise.
+     */
+    public boolean hasChanges() {
+        return !changes.isEmpty();
+    }
+
+    /**
+     * Retrieves the indices of all changed elements.
+     *
+     * @return The changed indices in ascending order.
+     */
+    public int[] changedIndices() {
+        return changes.stream().toArray();
+    }
+
+    /**
+     * Forgets all recorded changes.
+     * This should be called once the changes have been saved or displayed.
+     */
+    public void clearChanges() {
+        changes.clear();
+    }
+
+    /**
+     * Prevents any further modification of this array.
+     */
+    public void freeze() {
+        frozen = true;
+    }
+
+    /**
+     * Checks if this array can be modified.
+     *
+     * @return <code>true</code> if the array is frozen, <code>false</code> otherwise.
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Creates an unfrozen copy of this array with no recorded changes.
+     * The copy shares storage with this array until either is modified.
+     *
+     * @return A copy of this array.
+     */
+    public abstract PrimitiveArray copy();
+
+    /**
+     * Records every element that differs from a previous value of a Field, along with
+     * any changes to the previous value that had not been cleared yet.
+     *
+     * @param previous The array this array replaces.
+     */
+    void markChanges(PrimitiveArray previous) {
+        changes.or(previous.changes);
+
+        int common = Math.min(size, previous.size);
+        for (int i = 0; i < common; i++) {
+            if (!sameElement(i, previous))
+                changes.set(i);
+        }
+
+        // Elements past the previous size are new, and those past this size no longer exist
+        changes.set(common, size);
+        changes.clear(size, Math.max(size, changes.length()));
+    }
+
+    /**
+     * Compares an element of this array with the same element of another array of the same type.
+     *
+     * @param index The index of the element.
+     * @param other The array to compare with.
+     * @return <code>true</code> if the elements are equal, <code>false</code> otherwise.
+     */
+    protected abstract boolean sameElement(int index, PrimitiveArray other);
+
+    /**
+     * Encodes this array in a compact binary form.
+     *
+     * @return The encoded array.
+     */
+    public abstract byte[] toBytes();
+
+    /**
+     * Grows or shrinks the backing storage.
+     *
+     * @param newSize The new number of elements.
+     */
+    protected abstract void resizeStorage(int newSize);
+
+    /**
+     * Throws if the array is frozen.
+     * This is called before every write.
+     */
+    protected void checkModifiable() {
+        if (frozen)
+            throw new UnsupportedOperationException("PrimitiveArray is frozen");
+
+        if (owner != null)
+            owner.arrayWritten(this);
+    }
+
+    /**
+     * Checks that an encoded size is not larger than the remaining encoded data.
+     *
+     * @param in           The buffer being decoded.
+     * @param size         The decoded number of elements.
+     * @param bitsPerValue The minimum number of encoded bits per element.
+     */
+    protected static void checkEncodedSize(ByteBuffer in, int size, int bitsPerValue) {
+        if (size < 0 || ((long) size * bitsPerValue + 7) / 8 > in.remaining())
+            throw new IllegalArgumentException("Encoded size " + size + " exceeds the encoded data");
+    }
+
+    /**
+     * Checks that all of the encoded data was decoded.
+     *
+     * @param in The buffer being decoded.
+     */
+    protected static void checkFullyDecoded(ByteBuffer in) {
+        if (in.hasRemaining())
+            throw new IllegalArgumentException(in.remaining() + " bytes remain after the encoded array");
+    }
+
+    /**
+     * Checks that a range lies within this array.
+     *
+     * @param from   The first index of the range.
+     * @param length The number of elements in the range.
+     */
+    protected void checkRange(int from, int length) {
+        if (from < 0 || length < 0 || from > size - length)
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + from + " + " + length + ") out of bounds for size " + size);
+    }
+
+    /**
+     * Writes an unsigned variable length integer using 7 bits per byte.
+     *
+     * @param out   The stream to write to.
+     * @param value The value to write.
+     */
+    protected static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        out.write(value);
+    }
+
+    /**
+     * Reads an unsigned variable length integer written by <code>writeVarInt()</code>.
+     *
+     * @param in The buffer to read from.
+     * @return The value read.
+     */
+    protected static int readVarInt(ByteBuffer in) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+
+        do {
+            if (shift > 28)
+                throw new IllegalArgumentException("Malformed variable length integer");
+
+            if (!in.hasRemaining())
+                throw new IllegalArgumentException("Truncated variable length integer");
+
+            b = in.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        return value;
+    }
+
+}
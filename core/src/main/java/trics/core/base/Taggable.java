@@ -17,8 +17,14 @@ public abstract class Taggable extends Displayable {
 
     /**
      * The list of Tags this component is labeled with.
+     * This is null for an instance still sharing the tags of its template.
      */
-    private final List<InsensitiveString> tags;
+    private List<InsensitiveString> tags;
+
+    /**
+     * The component this is an instance of, or null if this is not an instance.
+     */
+    private final Taggable template;
 
     /**
      * Allows components to be labeled with tags the User can interact with for
@@ -27,7 +33,8 @@ public abstract class Taggable extends Displayable {
      * @param ID          The ID for this Unique, Displayable object.
      *                    It must be a valid ID based on <code>Unique.validID()</code>.
      * @param displayName The name of this component to be shown to a User.  This may be null.
-     * @param description A description of this component to be shown to the User.  This may be null.
+     * @param description A description of this component to be shown to the User.
+     *                    A null value will initialize to <code>Text.EMPTY</code>.
      * @throws InvalidIDException This will be thrown if the given ID is invalid.
      */
     public Taggable(String ID, String displayName, String description) throws InvalidIDException {
@@ -35,6 +42,7 @@ public abstract class Taggable extends Displayable {
 
         // Initialize an empty list of tags
         this.tags = new ArrayList<InsensitiveString>();
+        this.template = null;
     }
 
     /**
@@ -44,7 +52,8 @@ public abstract class Taggable extends Displayable {
      * @param ID          The ID for this Unique, Displayable object.
      *                    It must be a valid ID based on <code>Unique.validID()</code>.
      * @param displayName The name of this component to be shown to a User.  This may be null.
-     * @param description A description of this component to be shown to the User.  This may be null.
+     * @param description A description of this component to be shown to the User.
+     *                    A null value will initialize to <code>Text.EMPTY</code>.
      * @param tags        A list of tags to initialize the component.
      *                    This is typically used for loading saved components.
      *                    A null value will initialize an empty list.
@@ -58,6 +67,50 @@ public abstract class Taggable extends Displayable {
             this.tags = InsensitiveString.convertStringList(tags);
         else
             this.tags = new ArrayList<>();
+
+        this.template = null;
+    }
+
+    /**
+     * Creates an instance of a template component.
+     * The instance shares the tags of its template until it is tagged or untagged.
+     *
+     * @param ID          The ID for this Unique, Displayable object.
+     *                    It must be a valid ID based on <code>Unique.validID()</code>.
+     * @param displayName The name of this component to be shown to a User.
+     *                    A null value will share the name of the template.
+     * @param description A description of this component to be shown to the User.
+     *                    A null value will share the description of the template.
+     * @param template    The component this is an instance of.
+     * @throws InvalidIDException This will be thrown if the given ID is invalid.
+     */
+    protected Taggable(String ID, String displayName, String description, @NotNull Taggable template) throws InvalidIDException {
+        super(ID, displayName, description, template);
+
+        // Tags are only copied once this instance changes them
+        this.tags = null;
+        this.template = template;
+    }
+
+    /**
+     * The tags of this component, which may belong to its template.
+     *
+     * @return The list of tags to read from.
+     */
+    private List<InsensitiveString> readTags() {
+        return (tags != null) ? tags : template.readTags();
+    }
+
+    /**
+     * The tags of this component, copying them from its template if they are still shared.
+     *
+     * @return The list of tags to modify.
+     */
+    private List<InsensitiveString> ownTags() {
+        if (tags == null)
+            tags = new ArrayList<>(template.readTags());
+
+        return tags;
     }
 
     /**
@@ -66,7 +119,7 @@ public abstract class Taggable extends Displayable {
      * @return An unmodifiable list of Strings
      */
     public List<String> tags() {
-        return tags.stream().map(tag -> tag.data).collect(Collectors.toUnmodifiableList());
+        return readTags().stream().map(tag -> tag.data).collect(Collectors.toUnmodifiableList());
     }
 
     /**
@@ -77,7 +130,7 @@ public abstract class Taggable extends Displayable {
      * <code>false</code> otherwise.
      */
     public boolean isTagged(@NotNull String tag) {
-        return tags.contains(new InsensitiveString(tag));
+        return readTags().contains(new InsensitiveString(tag));
     }
 
     /**
@@ -92,7 +145,7 @@ public abstract class Taggable extends Displayable {
         // Test if the tag is already a label of the component
         if (!isTagged(tag)) {
             // Wrap tag as an InsensitiveString and add it to the list
-            tags.add(new InsensitiveString(tag));
+            ownTags().add(new InsensitiveString(tag));
 
             // Successful add
             return true;
@@ -110,11 +163,15 @@ public abstract class Taggable extends Displayable {
      * <code>false</code> otherwise.
      */
     public boolean untag(@NotNull String tag) {
+        // Shared tags are left alone unless there is something to remove
+        if (!isTagged(tag))
+            return false;
+
         // Convert to InsensitiveString to avoid type warning on equals()
         InsensitiveString toRemove = new InsensitiveString(tag);
 
         // Find the tag, if it exists as a label of the component and remove it
-        return tags.removeIf(x -> x.equals(toRemove));
+        return ownTags().removeIf(x -> x.equals(toRemove));
     }
 
 }
@@ -0,0 +1,156 @@
+package trics.core.base;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An immutable piece of text held by a <code>TextStore</code>.
+ * <p>
+ * Short text is kept on the heap as a regular String.  Long text is kept
+ * off-heap as encoded bytes and is only decoded when <code>toString()</code>
+ * is called, which should be left until the text is actually shown to the User.
+ * <br>
+ * <strong>Equal text from the same TextStore is always the same Text instance.</strong>
+ */
+public final class Text {
+
+    /**
+     * A Text with no content.
+     */
+    public static final Text EMPTY = new Text("");
+
+    /**
+     * The on-heap value of short text, null if the text is stored off-heap.
+     */
+    private final String value;
+
+    /**
+     * The store holding the encoded bytes of long text, null if the text is on-heap.
+     */
+    private final TextStore store;
+
+    /**
+     * A read-only buffer containing only the encoded bytes of long text.
+     */
+    private final ByteBuffer encoded;
+
+    /**
+     * The hash code of the decoded String, kept so lookups never have to decode.
+     */
+    private final int hash;
+
+    /**
+     * Creates a Text kept on the heap.
+     *
+     * @param value The text to hold.
+     */
+    Text(@NotNull String value) {
+        this.value = value;
+        this.store = null;
+        this.encoded = null;
+        this.hash = value.hashCode();
+    }
+
+    /**
+     * Creates a Text kept off-heap in a TextStore.
+     *
+     * @param store   The store that owns the encoded bytes.
+     * @param encoded A read-only buffer containing only the encoded text.
+     * @param hash    The hash code of the decoded String.
+     */
+    Text(@NotNull TextStore store, @NotNull ByteBuffer encoded, int hash) {
+        this.value = null;
+        this.store = store;
+        this.encoded = encoded;
+        this.hash = hash;
+    }
+
+    /**
+     * Checks if this Text is kept off-heap.
+     *
+     * @return <code>true</code> if the text is stored as off-heap bytes,
+     * <code>false</code> if it is a regular String.
+     */
+    public boolean isOffHeap() {
+        return value == null;
+    }
+
+    /**
+     * Checks if this Text has any content without decoding it.
+     *
+     * @return <code>true</code> if the text is empty, <code>false</code> otherwise.
+     */
+    public boolean isEmpty() {
+        return value != null ? value.isEmpty() : encoded.capacity() == 0;
+    }
+
+    /**
+     * Reads the raw encoded bytes of off-heap text.
+     *
+     * @return A copy of the encoded bytes.
+     */
+    byte[] bytes() {
+        return TextStore.read(encoded);
+    }
+
+    /**
+     * Compares this Text with a String without copying or decoding off-heap bytes.
+     *
+     * @param text The String to compare with.
+     * @return <code>true</code> if the text is equal, <code>false</code> otherwise.
+     */
+    boolean matches(@NotNull String text) {
+        return (value != null) ? value.equals(text) : TextStore.matches(encoded, text);
+    }
+
+    /**
+     * Decodes the text.
+     * Off-heap text is decoded on every call, so the result should not be held
+     * onto longer than it is displayed.
+     *
+     * @return The text as a String.
+     */
+    @Override
+    public String toString() {
+        if (value != null)
+            return value;
+
+        return new String(bytes(), TextStore.charset);
+    }
+
+    /**
+     * Compares the content of this Text with another Text or a String.
+     *
+     * @param obj The object to compare for equality.
+     * @return <code>true</code> if the object is a Text or String with the same content,
+     * <code>false</code> otherwise.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+
+        if (obj instanceof Text) {
+            Text other = (Text) obj;
+
+            // Texts from the same store are deduplicated, so only foreign Texts need decoding
+            return hash == other.hash && (store == null || store != other.store) && toString().equals(other.toString());
+        } else if (obj instanceof String) {
+            return hash == obj.hashCode() && matches((String) obj);
+        }
+
+        return false;
+    }
+
+    /**
+     * A hash code matching the hash code of the decoded String.
+     *
+     * @return The hash code of the text.
+     */
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+}
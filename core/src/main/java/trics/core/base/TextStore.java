@@ -0,0 +1,244 @@
+package trics.core.base;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Deduplicates the names and descriptions of Displayable components.
+ * <p>
+ * Many components are created from the same source entry and repeat the same
+ * text, so every distinct piece of text is only kept once.  Short text such as
+ * names stays on the heap, while long text such as rules descriptions is encoded
+ * into direct buffers outside of the heap so it does not add to garbage collection.
+ * <br>
+ * <strong>Text is never removed from a store.</strong>
+ */
+public final class TextStore {
+
+    /**
+     * Text is kept off-heap as UTF-8 since rules text is mostly ASCII and
+     * this is half the size of UTF-16.
+     */
+    static final Charset charset = StandardCharsets.UTF_8;
+
+    /**
+     * Text with fewer characters than this is kept on the heap.
+     */
+    public static final int OFF_HEAP_THRESHOLD = 128;
+
+    /**
+     * The size of each direct buffer long text is written into.
+     */
+    private static final int CHUNK_SIZE = 1 << 20;
+
+    /**
+     * The store used by all Displayable components.
+     */
+    private static final TextStore SHARED = new TextStore();
+
+    /**
+     * Deduplicated short text mapped to itself.
+     */
+    private final HashMap<String, Text> onHeap = new HashMap<>();
+
+    /**
+     * Deduplicated long text grouped by the hash code of the decoded String.
+     */
+    private final HashMap<Integer, List<Text>> offHeap = new HashMap<>();
+
+    /**
+     * All direct buffers allocated by this store.
+     */
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+
+    /**
+     * The direct buffer new long text is written into.
+     */
+    private ByteBuffer current = null;
+
+    /**
+     * Retrieves the store used by all Displayable components.
+     *
+     * @return The shared TextStore.
+     */
+    public static TextStore shared() {
+        return SHARED;
+    }
+
+    /**
+     * Deduplicates a short String, such as a name, that should stay on the heap.
+     *
+     * @param text The String to deduplicate.  This may be null.
+     * @return An equal String shared by all callers, or an empty String if text is null.
+     */
+    public synchronized String intern(String text) {
+        if (text == null || text.isEmpty())
+            return "";
+
+        return onHeap.computeIfAbsent(text, Text::new).toString();
+    }
+
+    /**
+     * Stores and deduplicates text, moving it off-heap if it is long.
+     * Text that cannot be encoded exactly, such as text with an unpaired surrogate,
+     * stays on the heap so it always decodes to the given String.
+     *
+     * @param text The String to store.  This may be null.
+     * @return The Text shared by all callers with equal text,
+     * or <code>Text.EMPTY</code> if text is null or empty.
+     */
+    public synchronized Text store(String text) {
+        if (text == null || text.isEmpty())
+            return Text.EMPTY;
+
+        // Short text isn't worth the cost of decoding
+        if (text.length() < OFF_HEAP_THRESHOLD || hasUnpairedSurrogate(text))
+            return onHeap.computeIfAbsent(text, Text::new);
+
+        int hash = text.hashCode();
+
+        // Compare any Text sharing the hash in place so stored text is found without copying
+        List<Text> candidates = offHeap.computeIfAbsent(hash, h -> new ArrayList<>(1));
+        for (Text candidate : candidates) {
+            if (candidate.matches(text))
+                return candidate;
+        }
+
+        Text stored = new Text(this, write(text.getBytes(charset)), hash);
+        candidates.add(stored);
+
+        return stored;
+    }
+
+    /**
+     * The number of bytes allocated off-heap by this store.
+     *
+     * @return The total capacity of all direct buffers.
+     */
+    public synchronized long offHeapBytes() {
+        return chunks.stream().mapToLong(ByteBuffer::capacity).sum();
+    }
+
+    /**
+     * Writes encoded text into a direct buffer.
+     * This must only be called while holding the lock of this store.
+     *
+     * @param encoded The encoded text.
+     * @return A read-only buffer containing only the written bytes.
+     */
+    private ByteBuffer write(byte[] encoded) {
+        ByteBuffer target;
+
+        if (encoded.length > CHUNK_SIZE) {
+            // Text larger than a chunk gets a buffer of its own
+            target = ByteBuffer.allocateDirect(encoded.length);
+            chunks.add(target);
+        } else {
+            if (current == null || current.remaining() < encoded.length) {
+                current = ByteBuffer.allocateDirect(CHUNK_SIZE);
+                chunks.add(current);
+            }
+
+            target = current;
+        }
+
+        int offset = target.position();
+        target.put(encoded);
+
+        // The slice is taken while the lock is held, so readers never touch the buffer being written
+        ByteBuffer slice = target.duplicate();
+        slice.position(offset);
+        slice.limit(offset + encoded.length);
+
+        return slice.slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * Reads encoded text out of its buffer.
+     *
+     * @param encoded The read-only buffer of a Text.
+     * @return A copy of the encoded bytes.
+     */
+    static byte[] read(@NotNull ByteBuffer encoded) {
+        byte[] bytes = new byte[encoded.capacity()];
+        encoded.duplicate().get(bytes);
+
+        return bytes;
+    }
+
+    /**
+     * Checks if encoded text is equal to a String without copying or decoding it.
+     * The String is encoded one character at a time the same way <code>String.getBytes()</code> does.
+     *
+     * @param encoded The read-only buffer of a Text.
+     * @param text    The String to compare with.
+     * @return <code>true</code> if the encoded text is equal to text, <code>false</code> otherwise.
+     */
+    static boolean matches(@NotNull ByteBuffer encoded, @NotNull String text) {
+        ByteBuffer view = encoded.duplicate();
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            if (c < 0x80) {
+                if (!next(view, c))
+                    return false;
+            } else if (c < 0x800) {
+                if (!next(view, 0xC0 | (c >> 6)) || !next(view, 0x80 | (c & 0x3F)))
+                    return false;
+            } else if (Character.isSurrogate(c)) {
+                // Stored text never contains an unpaired surrogate
+                if (!Character.isHighSurrogate(c) || i + 1 >= text.length() || !Character.isLowSurrogate(text.charAt(i + 1)))
+                    return false;
+
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                if (!next(view, 0xF0 | (codePoint >> 18)) || !next(view, 0x80 | ((codePoint >> 12) & 0x3F))
+                        || !next(view, 0x80 | ((codePoint >> 6) & 0x3F)) || !next(view, 0x80 | (codePoint & 0x3F)))
+                    return false;
+            } else {
+                if (!next(view, 0xE0 | (c >> 12)) || !next(view, 0x80 | ((c >> 6) & 0x3F)) || !next(view, 0x80 | (c & 0x3F)))
+                    return false;
+            }
+        }
+
+        return !view.hasRemaining();
+    }
+
+    /**
+     * Checks the next encoded byte.
+     *
+     * @param encoded The encoded text.
+     * @param b       The expected byte.
+     * @return <code>true</code> if there is a next byte and it is equal to b, <code>false</code> otherwise.
+     */
+    private static boolean next(ByteBuffer encoded, int b) {
+        return encoded.hasRemaining() && encoded.get() == (byte) b;
+    }
+
+    /**
+     * Checks if a String contains a surrogate that is not part of a pair.
+     * UTF-8 encoding replaces such a surrogate with '?', so the text would not decode to itself.
+     *
+     * @param text The String to check.
+     * @return <code>true</code> if text contains an unpaired surrogate, <code>false</code> otherwise.
+     */
+    private static boolean hasUnpairedSurrogate(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1)))
+                i++;
+            else if (Character.isSurrogate(c))
+                return true;
+        }
+
+        return false;
+    }
+
+}
@@ -10,7 +10,20 @@ public enum Type {
     INTEGER,
     DECIMAL,
     BOOLEAN,
-    STRING;
+    STRING,
+    INTEGER_ARRAY,
+    DECIMAL_ARRAY,
+    BOOLEAN_ARRAY;
+
+    /**
+     * Checks if this Type holds a list of values.
+     *
+     * @return <code>true</code> if values of this Type are a <code>PrimitiveArray</code>,
+     * <code>false</code> otherwise.
+     */
+    public boolean isArray() {
+        return this == INTEGER_ARRAY || this == DECIMAL_ARRAY || this == BOOLEAN_ARRAY;
+    }
 
     /**
      * Get the Type representation of object type.
@@ -28,6 +41,12 @@ public enum Type {
             return BOOLEAN;
         else if (obj instanceof String)
             return STRING;
+        else if (obj instanceof IntegerArray)
+            return INTEGER_ARRAY;
+        else if (obj instanceof DecimalArray)
+            return DECIMAL_ARRAY;
+        else if (obj instanceof BooleanArray)
+            return BOOLEAN_ARRAY;
 
         // Throw exception if no type match is made
         throw new InvalidTypeException();
@@ -3,8 +3,8 @@ package trics.core.base;
 import trics.core.exceptions.InvalidIDException;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * A Unique object contains a unique ID.
@@ -17,7 +17,7 @@ public abstract class Unique {
     /**
      * All Unique objects IDs are registered here to maintain uniqueness among all IDs.
      */
-    private static final List<String> ID_REGISTRY = new ArrayList<>();
+    private static final Set<String> ID_REGISTRY = new HashSet<>();
 
     /**
      * A Unique objects ID.
@@ -36,8 +36,7 @@ public abstract class Unique {
             this.ID = ID;
 
             // Register the ID
-            if(!ID_REGISTRY.contains(ID))
-                ID_REGISTRY.add(ID);
+            ID_REGISTRY.add(ID);
         }
 
         // Invalid IDs will throw core.exceptions to be caught and logged.
@@ -48,6 +47,19 @@ public abstract class Unique {
         }
     }
 
+    /**
+     * Creates a copy of a Unique object that shares its ID.
+     * The ID is not registered again since it still identifies the same component,
+     * so the copy is <code>equals()</code> to its template.
+     * This is only used for the Fields of CoreObject instances and must not be
+     * used to create distinct components.
+     *
+     * @param template The Unique object whose ID is shared.
+     */
+    Unique(@NotNull Unique template) {
+        this.ID = template.ID;
+    }
+
     /**
      * Determines if any Unique ID is valid.
      * This will compare an ID with a regular expression defining a valid ID and
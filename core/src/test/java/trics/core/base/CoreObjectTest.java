@@ -0,0 +1,206 @@
+package trics.core.base;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoreObjectTest {
+
+    /**
+     * IDs are registered globally, so every test uses its own prefix.
+     */
+    private static CoreObject template(String prefix) throws Exception {
+        Field<Integer> hp = new Field<>(prefix + ".hp", "HP", null, 7, true);
+        Field<IntegerArray> inventory = new Field<>(prefix + ".inventory", "Inventory", null, new IntegerArray(new int[]{1, 2, 3}), true);
+        Field<String> race = new Field<>(prefix + ".race", "Race", null, "Goblin", false);
+
+        return new CoreObject(prefix, "Goblin", "A small, sneaky humanoid.", List.of("monster"), List.of(hp, inventory, race));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void setInteger(CoreObject object, String id, int value) throws Exception {
+        ((Field<Integer>) object.getField(id)).setData(new Field<>(id + ".new" + value, null, null, value, true));
+    }
+
+    @Test
+    void instanceSharesTemplate() throws Exception {
+        CoreObject template = template("share");
+        CoreObject instance = template.instantiate("share.1");
+
+        assertSame(template, instance.getTemplate());
+        assertSame(template.displayName, instance.displayName);
+        assertSame(template.description, instance.description);
+        assertEquals(List.of("monster"), instance.tags());
+        assertEquals(7, instance.getField("share.hp").getData());
+        assertEquals(3, instance.getAllFields().size());
+        assertFalse(instance.isOverridden("share.hp"));
+    }
+
+    @Test
+    void instanceCanOverrideText() throws Exception {
+        CoreObject template = template("text");
+        CoreObject instance = template.instantiate("text.1", "Goblin Boss", null);
+
+        assertEquals("Goblin Boss", instance.displayName);
+        assertEquals("Goblin", template.displayName);
+        assertSame(template.description, instance.description);
+    }
+
+    @Test
+    void settingAValueIsolatesTheTemplate() throws Exception {
+        CoreObject template = template("value");
+        CoreObject first = template.instantiate("value.1");
+        CoreObject second = template.instantiate("value.2");
+
+        setInteger(first, "value.hp", 3);
+
+        assertEquals(3, first.getField("value.hp").getData());
+        assertEquals(7, second.getField("value.hp").getData());
+        assertEquals(7, template.getField("value.hp").getData());
+        assertTrue(first.isOverridden("value.hp"));
+        assertFalse(second.isOverridden("value.hp"));
+    }
+
+    @Test
+    void modifyingAnArrayIsolatesTheTemplate() throws Exception {
+        CoreObject template = template("array");
+        CoreObject first = template.instantiate("array.1");
+        CoreObject second = template.instantiate("array.2");
+
+        ((IntegerArray) first.getField("array.inventory").getData()).set(0, 99);
+
+        assertArrayEquals(new int[]{99, 2, 3}, ((IntegerArray) first.getField("array.inventory").getData()).toArray());
+        assertArrayEquals(new int[]{1, 2, 3}, ((IntegerArray) second.getField("array.inventory").getData()).toArray());
+        assertArrayEquals(new int[]{1, 2, 3}, ((IntegerArray) template.getField("array.inventory").getData()).toArray());
+    }
+
+    @Test
+    void immutableFieldsAreShared() throws Exception {
+        CoreObject template = template("immutable");
+        CoreObject instance = template.instantiate("immutable.1");
+
+        assertSame(template.getField("immutable.race"), instance.getField("immutable.race"));
+    }
+
+    @Test
+    void templateChangesReachInstancesUntilOverridden() throws Exception {
+        CoreObject template = template("live");
+        CoreObject instance = template.instantiate("live.1");
+
+        setInteger(template, "live.hp", 10);
+        assertEquals(10, instance.getField("live.hp").getData());
+
+        setInteger(instance, "live.hp", 4);
+        setInteger(template, "live.hp", 12);
+        assertEquals(4, instance.getField("live.hp").getData());
+    }
+
+    @Test
+    void templateArrayChangesReachInstancesUntilWritten() throws Exception {
+        CoreObject template = template("liveArray");
+        CoreObject instance = template.instantiate("liveArray.1");
+        IntegerArray templateInventory = (IntegerArray) template.getField("liveArray.inventory").getData();
+
+        // Reading an array is not an override
+        assertEquals(1, ((IntegerArray) instance.getField("liveArray.inventory").getData()).get(0));
+        assertFalse(instance.isOverridden("liveArray.inventory"));
+        assertFalse(instance.revertField("liveArray.inventory"));
+
+        templateInventory.set(0, 42);
+        assertArrayEquals(new int[]{42, 2, 3}, ((IntegerArray) instance.getField("liveArray.inventory").getData()).toArray());
+
+        IntegerArray own = (IntegerArray) instance.getField("liveArray.inventory").getData();
+        own.set(1, 9);
+        templateInventory.set(0, 50);
+
+        assertTrue(instance.isOverridden("liveArray.inventory"));
+        assertArrayEquals(new int[]{42, 9, 3}, ((IntegerArray) instance.getField("liveArray.inventory").getData()).toArray());
+        assertArrayEquals(new int[]{1}, own.changedIndices());
+
+        assertTrue(instance.revertField("liveArray.inventory"));
+        assertArrayEquals(new int[]{50, 2, 3}, ((IntegerArray) instance.getField("liveArray.inventory").getData()).toArray());
+
+        // A discarded array no longer writes through to the instance
+        own.set(2, 7);
+        assertFalse(instance.isOverridden("liveArray.inventory"));
+    }
+
+    @Test
+    void revertFieldSharesTheTemplateAgain() throws Exception {
+        CoreObject template = template("revert");
+        CoreObject instance = template.instantiate("revert.1");
+
+        assertFalse(instance.revertField("revert.hp"));
+
+        setInteger(instance, "revert.hp", 3);
+        assertTrue(instance.revertField("revert.hp"));
+
+        assertFalse(instance.isOverridden("revert.hp"));
+        assertEquals(7, instance.getField("revert.hp").getData());
+        assertFalse(template.revertField("revert.hp"));
+    }
+
+    @Test
+    void instanceOfInstanceReadsThroughItsTemplate() throws Exception {
+        CoreObject template = template("nested");
+        CoreObject boss = template.instantiate("nested.boss");
+        CoreObject minion = boss.instantiate("nested.minion");
+
+        setInteger(boss, "nested.hp", 20);
+        assertEquals(20, minion.getField("nested.hp").getData());
+
+        setInteger(minion, "nested.hp", 5);
+        assertEquals(5, minion.getField("nested.hp").getData());
+        assertEquals(20, boss.getField("nested.hp").getData());
+        assertEquals(7, template.getField("nested.hp").getData());
+
+        // Writing to the minion's array must not give the boss an array of its own
+        ((IntegerArray) minion.getField("nested.inventory").getData()).set(2, 0);
+        assertFalse(boss.isOverridden("nested.inventory"));
+        assertArrayEquals(new int[]{1, 2, 3}, ((IntegerArray) boss.getField("nested.inventory").getData()).toArray());
+    }
+
+    @Test
+    void instanceSeesTemplateOverrideMadeAfterItWasRead() throws Exception {
+        CoreObject template = template("late");
+        CoreObject boss = template.instantiate("late.boss");
+        CoreObject minion = boss.instantiate("late.minion");
+
+        assertEquals(3, minion.getAllFields().size());
+        assertEquals(7, minion.getField("late.hp").getData());
+
+        setInteger(boss, "late.hp", 20);
+
+        assertEquals(20, minion.getField("late.hp").getData());
+        assertFalse(minion.isOverridden("late.hp"));
+    }
+
+    @Test
+    void tagsAreCopiedOnFirstChange() throws Exception {
+        CoreObject template = template("tags");
+        CoreObject instance = template.instantiate("tags.1");
+
+        assertFalse(instance.untag("wounded"));
+        instance.tag("wounded");
+        instance.untag("monster");
+
+        assertEquals(List.of("wounded"), instance.tags());
+        assertEquals(List.of("monster"), template.tags());
+
+        template.tag("undead");
+        assertFalse(instance.isTagged("undead"));
+    }
+
+    @Test
+    void untouchedInstanceSeesTemplateTags() throws Exception {
+        CoreObject template = template("liveTags");
+        CoreObject instance = template.instantiate("liveTags.1");
+
+        template.tag("undead");
+
+        assertTrue(instance.isTagged("undead"));
+    }
+
+}
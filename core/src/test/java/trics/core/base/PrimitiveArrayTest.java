@@ -0,0 +1,193 @@
+package trics.core.base;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveArrayTest {
+
+    @Test
+    void integerRoundTripKeepsExtremes() {
+        IntegerArray array = new IntegerArray(new int[]{0, 1, -1, 63, -64, 300, Integer.MAX_VALUE, Integer.MIN_VALUE});
+
+        IntegerArray decoded = IntegerArray.fromBytes(array.toBytes());
+
+        assertArrayEquals(array.toArray(), decoded.toArray());
+        assertFalse(decoded.hasChanges());
+    }
+
+    @Test
+    void smallIntegersTakeOneByte() {
+        IntegerArray array = new IntegerArray(new int[]{0, 5, -5, 63, -64});
+
+        // One byte for the size and one for each element
+        assertEquals(6, array.toBytes().length);
+    }
+
+    @Test
+    void decimalRoundTripKeepsSpecialValues() {
+        double[] values = {0.0, -0.0, 1.5, Double.NaN, Double.POSITIVE_INFINITY, Double.MIN_VALUE, -Double.MAX_VALUE};
+        DecimalArray array = new DecimalArray(values);
+
+        DecimalArray decoded = DecimalArray.fromBytes(array.toBytes());
+
+        assertEquals(array, decoded);
+        assertTrue(Double.isNaN(decoded.get(3)));
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(decoded.get(1)));
+    }
+
+    @Test
+    void decimalNegativeZeroIsAChange() {
+        DecimalArray array = new DecimalArray(new double[]{0.0});
+
+        array.set(0, -0.0);
+
+        assertTrue(array.isChanged(0));
+    }
+
+    @Test
+    void booleanRoundTripKeepsTrailingFalseValues() {
+        BooleanArray array = new BooleanArray(new boolean[]{true, false, false, true, false, false, false, false, false, false, false});
+
+        BooleanArray decoded = BooleanArray.fromBytes(array.toBytes());
+
+        assertEquals(11, decoded.size());
+        assertArrayEquals(array.toArray(), decoded.toArray());
+        assertEquals(3, array.toBytes().length);
+    }
+
+    @Test
+    void booleanRoundTripOfAllFalse() {
+        BooleanArray array = new BooleanArray(20);
+
+        BooleanArray decoded = BooleanArray.fromBytes(array.toBytes());
+
+        assertEquals(array, decoded);
+        assertEquals(20, decoded.size());
+    }
+
+    @Test
+    void truncatedInputIsRejected() {
+        byte[] encoded = new IntegerArray(new int[]{1, 2, 300}).toBytes();
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 1);
+
+        assertThrows(IllegalArgumentException.class, () -> IntegerArray.fromBytes(truncated));
+        assertThrows(IllegalArgumentException.class, () -> DecimalArray.fromBytes(new byte[]{2, 0, 0, 0}));
+        assertThrows(IllegalArgumentException.class, () -> BooleanArray.fromBytes(new byte[]{17, 0}));
+    }
+
+    @Test
+    void trailingBytesAreRejected() {
+        byte[] integers = Arrays.copyOf(new IntegerArray(new int[]{1, 2, 300}).toBytes(), 6);
+        byte[] decimals = Arrays.copyOf(new DecimalArray(new double[]{1.5}).toBytes(), 10);
+        byte[] booleans = Arrays.copyOf(new BooleanArray(new boolean[]{true, false, true}).toBytes(), 3);
+
+        assertThrows(IllegalArgumentException.class, () -> IntegerArray.fromBytes(integers));
+        assertThrows(IllegalArgumentException.class, () -> DecimalArray.fromBytes(decimals));
+        assertThrows(IllegalArgumentException.class, () -> BooleanArray.fromBytes(booleans));
+        assertThrows(IllegalArgumentException.class, () -> BooleanArray.fromBytes(new byte[]{3, (byte) 0x0F}));
+    }
+
+    @Test
+    void oversizedHeaderIsRejected() {
+        byte[] header = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+
+        assertThrows(IllegalArgumentException.class, () -> IntegerArray.fromBytes(header));
+        assertThrows(IllegalArgumentException.class, () -> DecimalArray.fromBytes(header));
+        assertThrows(IllegalArgumentException.class, () -> BooleanArray.fromBytes(header));
+    }
+
+    @Test
+    void onlyDifferingElementsAreChanges() {
+        IntegerArray array = new IntegerArray(new int[]{1, 2, 3, 4});
+
+        array.set(0, 1);
+        array.set(1, 5);
+        array.write(2, new int[]{3, 6}, 0, 2);
+
+        assertArrayEquals(new int[]{1, 3}, array.changedIndices());
+
+        array.clearChanges();
+        assertFalse(array.hasChanges());
+    }
+
+    @Test
+    void resizeGrowsWithDefaultsAndShrinksChanges() {
+        IntegerArray array = new IntegerArray(new int[]{1, 2});
+        array.set(1, 7);
+
+        array.resize(5);
+        assertArrayEquals(new int[]{1, 7, 0, 0, 0}, array.toArray());
+        assertArrayEquals(new int[]{1, 2, 3, 4}, array.changedIndices());
+
+        array.set(4, 9);
+        array.resize(1);
+        assertArrayEquals(new int[]{1}, array.toArray());
+        assertFalse(array.hasChanges());
+
+        // Elements beyond a shrink must come back as defaults
+        array.resize(5);
+        assertArrayEquals(new int[]{1, 0, 0, 0, 0}, array.toArray());
+    }
+
+    @Test
+    void booleanResizeClearsRemovedElements() {
+        BooleanArray array = new BooleanArray(new boolean[]{true, true, true});
+
+        array.resize(1);
+        array.resize(3);
+
+        assertArrayEquals(new boolean[]{true, false, false}, array.toArray());
+    }
+
+    @Test
+    void copiesDoNotShareModifications() {
+        IntegerArray original = new IntegerArray(new int[]{1, 2, 3});
+        IntegerArray copy = original.copy();
+
+        copy.set(0, 9);
+        original.set(1, 8);
+
+        assertArrayEquals(new int[]{1, 8, 3}, original.toArray());
+        assertArrayEquals(new int[]{9, 2, 3}, copy.toArray());
+        assertArrayEquals(new int[]{0}, copy.changedIndices());
+    }
+
+    @Test
+    void frozenArrayRejectsModification() {
+        BooleanArray array = new BooleanArray(2);
+        array.freeze();
+
+        assertThrows(UnsupportedOperationException.class, () -> array.set(0, true));
+        assertThrows(UnsupportedOperationException.class, () -> array.resize(3));
+    }
+
+    @Test
+    void immutableFieldFreezesOnlyItsOwnCopy() throws Exception {
+        IntegerArray array = new IntegerArray(new int[]{1, 2});
+        Field<IntegerArray> immutable = new Field<>("PrimitiveArrayTest.immutable", null, null, array, false);
+        Field<IntegerArray> mutable = new Field<>("PrimitiveArrayTest.mutable", null, null, array, true);
+
+        mutable.getData().set(0, 5);
+        array.set(1, 6);
+
+        assertTrue(immutable.getData().isFrozen());
+        assertFalse(array.isFrozen());
+        assertArrayEquals(new int[]{1, 2}, immutable.getData().toArray());
+        assertArrayEquals(new int[]{5, 2}, mutable.getData().toArray());
+    }
+
+    @Test
+    void setDataRecordsReplacedElements() throws Exception {
+        Field<IntegerArray> field = new Field<>("PrimitiveArrayTest.setData", null, null, new IntegerArray(new int[]{1, 2, 3}), true);
+        Field<IntegerArray> replacement = new Field<>("PrimitiveArrayTest.replacement", null, null, new IntegerArray(new int[]{1, 5, 3, 4}), true);
+
+        field.setData(replacement);
+
+        assertTrue(field.getData().hasChanges());
+        assertArrayEquals(new int[]{1, 3}, field.getData().changedIndices());
+    }
+
+}
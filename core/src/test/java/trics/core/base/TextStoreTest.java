@@ -0,0 +1,115 @@
+package trics.core.base;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextStoreTest {
+
+    private static String longText(String unit) {
+        return unit.repeat(TextStore.OFF_HEAP_THRESHOLD);
+    }
+
+    @Test
+    void equalTextIsTheSameInstance() {
+        TextStore store = new TextStore();
+        String text = longText("a");
+
+        Text first = store.store(text);
+        Text second = store.store(new String(text));
+
+        assertSame(first, second);
+        assertTrue(first.isOffHeap());
+        assertEquals(text, first.toString());
+    }
+
+    @Test
+    void differentTextIsNotShared() {
+        TextStore store = new TextStore();
+
+        Text first = store.store(longText("a"));
+        Text second = store.store(longText("a").substring(1) + "b");
+
+        assertNotSame(first, second);
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void thresholdDecidesWhereTextIsKept() {
+        TextStore store = new TextStore();
+        String belowThreshold = "x".repeat(TextStore.OFF_HEAP_THRESHOLD - 1);
+        String atThreshold = "x".repeat(TextStore.OFF_HEAP_THRESHOLD);
+
+        assertFalse(store.store(belowThreshold).isOffHeap());
+        assertTrue(store.store(atThreshold).isOffHeap());
+        assertEquals(belowThreshold, store.store(belowThreshold).toString());
+        assertEquals(atThreshold, store.store(atThreshold).toString());
+    }
+
+    @Test
+    void multiByteCharactersRoundTrip() {
+        TextStore store = new TextStore();
+
+        // 1, 2, 3, and 4 byte UTF-8 characters, including the edges of each range
+        String[] units = {"a\u007F", "\u00E9\u0080\u07FF", "\u20AC\u0800\uFFFF", "\uD83D\uDE00\uDBFF\uDFFF"};
+
+        for (String unit : units) {
+            String text = longText(unit);
+            Text stored = store.store(text);
+
+            assertTrue(stored.isOffHeap());
+            assertEquals(text, stored.toString());
+            assertSame(stored, store.store(new String(text)));
+            assertEquals(text.hashCode(), stored.hashCode());
+        }
+    }
+
+    @Test
+    void unpairedSurrogatesStayExact() {
+        TextStore store = new TextStore();
+        String[] texts = {"\uD800" + longText("a"), longText("a") + "\uDC00", longText("a") + "\uD800", "\uDC00\uD800" + longText("a")};
+
+        for (String text : texts) {
+            Text stored = store.store(text);
+
+            assertFalse(stored.isOffHeap());
+            assertEquals(text, stored.toString());
+            assertEquals(text.hashCode(), stored.hashCode());
+            assertNotEquals(store.store(text.replace('\uD800', '?').replace('\uDC00', '?')), stored);
+        }
+    }
+
+    @Test
+    void textEqualsAcrossStoresAndStrings() {
+        TextStore first = new TextStore();
+        TextStore second = new TextStore();
+        String text = longText("\u00E9");
+
+        Text a = first.store(text);
+        Text b = second.store(text);
+
+        assertNotSame(a, b);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertTrue(a.equals(text));
+        assertFalse(a.equals(longText("e")));
+        assertNotEquals(a, first.store(longText("e")));
+    }
+
+    @Test
+    void nullAndEmptyAreEmpty() {
+        TextStore store = new TextStore();
+
+        assertSame(Text.EMPTY, store.store(null));
+        assertSame(Text.EMPTY, store.store(""));
+        assertEquals("", store.intern(null));
+    }
+
+    @Test
+    void internSharesEqualNames() {
+        TextStore store = new TextStore();
+
+        assertSame(store.intern("Goblin"), store.intern(new String("Goblin")));
+    }
+
+}